@@ -33,6 +33,18 @@ public class Contribuinte1998 extends Contribuinte {
         }
     }
 
+    /**
+     * Constructs a Contribuinte1998 object that uses the given life expectancy table.
+     *
+     * @param dataNascimento the date of birth of the contributor
+     * @param genero the gender of the contributor
+     * @param expectativa the life expectancy table for the contributor's gender
+     */
+    Contribuinte1998(LocalDate dataNascimento, String genero, ExpectativaSobrevida expectativa) {
+        super(dataNascimento, genero);
+        this.expectativa = expectativa;
+    }
+
     /**
      * Calculates the remaining time until retirement for a contributor.
      * 
@@ -33,6 +33,12 @@ public class ExpectativaSobrevida {
         this.expectativaVidaMulheres = carregarExpectativaVida("https://ftp.ibge.gov.br/Tabuas_Completas_de_Mortalidade/Tabuas_Completas_de_Mortalidade_2023/xlsx/mulheres.xlsx");
     }
 
+    ExpectativaSobrevida(String genero, Map<Integer, Double> expectativaVidaHomens, Map<Integer, Double> expectativaVidaMulheres) {
+        this.genero = genero;
+        this.expectativaVidaHomens = expectativaVidaHomens;
+        this.expectativaVidaMulheres = expectativaVidaMulheres;
+    }
+
     public static ExpectativaSobrevida getInstance(String genero) throws IOException, URISyntaxException {
         if ("Homem".equalsIgnoreCase(genero)) {
             if (instanciaHomem == null) {
@@ -56,12 +62,12 @@ public class ExpectativaSobrevida {
     }
 
     public double obterExpectativaSobrevida(int idade) {
-        if ("M".equalsIgnoreCase(genero)) {
+        if ("Homem".equalsIgnoreCase(genero)) {
             Double expectativa = expectativaVidaHomens.get(idade);
             if (expectativa != null) {
                 return expectativa;
             }
-        } else if ("F".equalsIgnoreCase(genero)) {
+        } else if ("Mulher".equalsIgnoreCase(genero)) {
             Double expectativa = expectativaVidaMulheres.get(idade);
             if (expectativa != null) {
                 return expectativa;
@@ -126,10 +132,10 @@ public class ExpectativaSobrevida {
 
     public static void main(String[] args) {
         try {
-            ExpectativaSobrevida expectativaHomem = ExpectativaSobrevida.getInstance("M");
+            ExpectativaSobrevida expectativaHomem = ExpectativaSobrevida.getInstance("Homem");
             System.out.println("Expectativa de sobrevida aos 35 anos (Homem): " + expectativaHomem.obterExpectativaSobrevida(35));
 
-            ExpectativaSobrevida expectativaMulher = ExpectativaSobrevida.getInstance("F");
+            ExpectativaSobrevida expectativaMulher = ExpectativaSobrevida.getInstance("Mulher");
             System.out.println("Expectativa de sobrevida aos 40 anos (Mulher): " + expectativaMulher.obterExpectativaSobrevida(40));
 
         } catch (IOException | URISyntaxException e) {
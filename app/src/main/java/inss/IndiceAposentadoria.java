@@ -0,0 +1,313 @@
+package inss;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * A classe IndiceAposentadoria indexa contribuintes pelo ano projetado de aposentadoria,
+ * permitindo consultas por intervalo filtradas por regime e gênero sem recalcular
+ * o tempo restante de cada contribuinte.
+ *
+ * Cada contribuinte recebe um identificador igual à sua posição no índice. Cada ano
+ * guarda uma lista ordenada de identificadores por regime e gênero, de modo que uma
+ * consulta percorre apenas as listas dos anos e categorias pedidos.
+ *
+ * O índice é uma fotografia do ano em que foi construído: a projeção é esse ano somado a
+ * {@link Contribuinte#calcularTempoRestanteAposentadoria()}, calculado em anos inteiros.
+ * Contribuintes que já podem se aposentar são projetados para o ano de referência. As
+ * atualizações posteriores usam o mesmo ano de referência. Esta classe não é thread-safe.
+ */
+public class IndiceAposentadoria {
+    private static final int GENERO_HOMEM = 0;
+    private static final int GENERO_MULHER = 1;
+
+    private final int anoReferencia;
+    private final List<Contribuinte> contribuintes;
+    private final List<Class<? extends Contribuinte>> regimes;
+    private final TreeMap<Integer, Balde> porAno;
+    private int[] anosAposentadoria;
+    private byte[] regimeDe;
+    private byte[] generoDe;
+
+    /**
+     * Constrói o índice a partir dos contribuintes informados, calculando as projeções em paralelo.
+     *
+     * @param contribuintes os contribuintes a serem indexados; o identificador de cada um é sua posição na lista
+     */
+    public IndiceAposentadoria(List<? extends Contribuinte> contribuintes) {
+        this.anoReferencia = Year.now().getValue();
+        this.contribuintes = new ArrayList<>(contribuintes);
+        this.regimes = new ArrayList<>();
+        this.porAno = new TreeMap<>();
+
+        int total = this.contribuintes.size();
+        this.anosAposentadoria = IntStream.range(0, total)
+                .parallel()
+                .map(id -> projetarAno(this.contribuintes.get(id)))
+                .toArray();
+        this.regimeDe = new byte[total];
+        this.generoDe = new byte[total];
+        for (int id = 0; id < total; id++) {
+            indexar(id, this.contribuintes.get(id));
+        }
+    }
+
+    /**
+     * Adiciona um novo contribuinte ao índice.
+     *
+     * @param contribuinte o contribuinte a ser indexado
+     * @return o identificador atribuído ao contribuinte
+     */
+    public int adicionarContribuinte(Contribuinte contribuinte) {
+        int id = contribuintes.size();
+        contribuintes.add(contribuinte);
+        if (id == anosAposentadoria.length) {
+            int capacidade = Math.max(16, id * 2);
+            anosAposentadoria = Arrays.copyOf(anosAposentadoria, capacidade);
+            regimeDe = Arrays.copyOf(regimeDe, capacidade);
+            generoDe = Arrays.copyOf(generoDe, capacidade);
+        }
+        anosAposentadoria[id] = projetarAno(contribuinte);
+        indexar(id, contribuinte);
+        return id;
+    }
+
+    /**
+     * Registra uma nova contribuição para o contribuinte e atualiza sua posição no índice.
+     *
+     * @param id o identificador do contribuinte
+     * @param contribuicao a contribuição mensal a ser adicionada
+     * @throws IndexOutOfBoundsException se o identificador não existir no índice
+     */
+    public void adicionarContribuicao(int id, PagamentoMensal contribuicao) {
+        Contribuinte contribuinte = contribuintes.get(id);
+        contribuinte.adicionarContribuicao(contribuicao);
+        int anoAnterior = anosAposentadoria[id];
+        int anoAtual = projetarAno(contribuinte);
+        if (anoAtual != anoAnterior) {
+            Balde anterior = porAno.get(anoAnterior);
+            anterior.remover(id, categoria(id));
+            if (anterior.tamanho == 0) {
+                porAno.remove(anoAnterior);
+            }
+            anosAposentadoria[id] = anoAtual;
+            porAno.computeIfAbsent(anoAtual, ano -> new Balde()).inserir(id, categoria(id));
+        }
+    }
+
+    /**
+     * Obtém o contribuinte associado ao identificador.
+     *
+     * @param id o identificador do contribuinte
+     * @return o contribuinte indexado com esse identificador
+     */
+    public Contribuinte getContribuinte(int id) {
+        return contribuintes.get(id);
+    }
+
+    /**
+     * Obtém o ano projetado de aposentadoria do contribuinte.
+     *
+     * @param id o identificador do contribuinte
+     * @return o ano em que o contribuinte poderá se aposentar
+     */
+    public int getAnoAposentadoria(int id) {
+        if (id < 0 || id >= contribuintes.size()) {
+            throw new IndexOutOfBoundsException("Identificador inválido: " + id);
+        }
+        return anosAposentadoria[id];
+    }
+
+    /**
+     * Busca os identificadores dos contribuintes que se aposentam no intervalo informado.
+     *
+     * A granularidade é de ano: o tempo restante de aposentadoria é calculado em anos
+     * inteiros, então não há como distinguir meses dentro do mesmo ano.
+     *
+     * @param anoInicio o primeiro ano do intervalo, inclusive
+     * @param anoFim o último ano do intervalo, inclusive
+     * @param regime a classe do regime a filtrar, ou null para todos os regimes
+     * @param genero o gênero a filtrar ("Homem" ou "Mulher"), ou null para ambos
+     * @return os identificadores encontrados, ordenados por ano e, dentro de cada ano, por identificador
+     * @throws IllegalArgumentException se o gênero não for null, "Homem" ou "Mulher"
+     */
+    public int[] buscar(int anoInicio, int anoFim, Class<? extends Contribuinte> regime, String genero) {
+        int filtroGenero = filtroGenero(genero);
+        if (anoInicio > anoFim || regimeAusente(regime)) {
+            return new int[0];
+        }
+        int filtroRegime = filtroRegime(regime);
+        int[] resultado = new int[contar(anoInicio, anoFim, regime, genero)];
+        int encontrados = 0;
+        for (Balde balde : porAno.subMap(anoInicio, true, anoFim, true).values()) {
+            encontrados = balde.copiar(filtroRegime, filtroGenero, resultado, encontrados);
+        }
+        return resultado;
+    }
+
+    /**
+     * Conta os contribuintes que se aposentam no intervalo informado, usando as contagens
+     * mantidas em cada ano sem percorrer os identificadores.
+     *
+     * A granularidade é de ano: o tempo restante de aposentadoria é calculado em anos
+     * inteiros, então não há como distinguir meses dentro do mesmo ano.
+     *
+     * @param anoInicio o primeiro ano do intervalo, inclusive
+     * @param anoFim o último ano do intervalo, inclusive
+     * @param regime a classe do regime a filtrar, ou null para todos os regimes
+     * @param genero o gênero a filtrar ("Homem" ou "Mulher"), ou null para ambos
+     * @return o número de contribuintes encontrados
+     * @throws IllegalArgumentException se o gênero não for null, "Homem" ou "Mulher"
+     */
+    public int contar(int anoInicio, int anoFim, Class<? extends Contribuinte> regime, String genero) {
+        int filtroGenero = filtroGenero(genero);
+        if (anoInicio > anoFim || regimeAusente(regime)) {
+            return 0;
+        }
+        int filtroRegime = filtroRegime(regime);
+        int total = 0;
+        for (Balde balde : porAno.subMap(anoInicio, true, anoFim, true).values()) {
+            total += balde.contar(filtroRegime, filtroGenero);
+        }
+        return total;
+    }
+
+    /**
+     * Retorna o ano de referência usado em todas as projeções do índice.
+     *
+     * @return o ano em que o índice foi construído
+     */
+    public int getAnoReferencia() {
+        return anoReferencia;
+    }
+
+    /**
+     * Retorna o número de contribuintes indexados.
+     *
+     * @return o número de contribuintes no índice
+     */
+    public int tamanho() {
+        return contribuintes.size();
+    }
+
+    private void indexar(int id, Contribuinte contribuinte) {
+        int regime = regimes.indexOf(contribuinte.getClass());
+        if (regime < 0) {
+            regime = regimes.size();
+            regimes.add(contribuinte.getClass());
+        }
+        regimeDe[id] = (byte) regime;
+        generoDe[id] = (byte) ("Homem".equals(contribuinte.getGenero()) ? GENERO_HOMEM : GENERO_MULHER);
+        porAno.computeIfAbsent(anosAposentadoria[id], ano -> new Balde()).inserir(id, categoria(id));
+    }
+
+    private int categoria(int id) {
+        return regimeDe[id] * 2 + generoDe[id];
+    }
+
+    private boolean regimeAusente(Class<? extends Contribuinte> regime) {
+        return regime != null && !regimes.contains(regime);
+    }
+
+    private int filtroRegime(Class<? extends Contribuinte> regime) {
+        return regime == null ? -1 : regimes.indexOf(regime);
+    }
+
+    private static int filtroGenero(String genero) {
+        if (genero == null) {
+            return -1;
+        } else if (genero.equals("Homem")) {
+            return GENERO_HOMEM;
+        } else if (genero.equals("Mulher")) {
+            return GENERO_MULHER;
+        }
+        throw new IllegalArgumentException("Gênero deve ser 'Homem' ou 'Mulher'");
+    }
+
+    private int projetarAno(Contribuinte contribuinte) {
+        return anoReferencia + Math.max(0, contribuinte.calcularTempoRestanteAposentadoria());
+    }
+
+    /**
+     * Identificadores de um ano separados por categoria (regime * 2 + gênero), cada lista
+     * mantida em ordem crescente.
+     */
+    private static class Balde {
+        private int[][] ids = new int[0][];
+        private int[] tamanhos = new int[0];
+        private int tamanho;
+
+        void inserir(int id, int categoria) {
+            if (categoria >= ids.length) {
+                ids = Arrays.copyOf(ids, categoria + 1);
+                tamanhos = Arrays.copyOf(tamanhos, categoria + 1);
+            }
+            if (ids[categoria] == null) {
+                ids[categoria] = new int[8];
+            }
+            int[] lista = ids[categoria];
+            int quantidade = tamanhos[categoria];
+            int posicao = quantidade > 0 && lista[quantidade - 1] < id
+                    ? quantidade : -(Arrays.binarySearch(lista, 0, quantidade, id) + 1);
+            if (quantidade == lista.length) {
+                lista = Arrays.copyOf(lista, quantidade * 2);
+                ids[categoria] = lista;
+            }
+            System.arraycopy(lista, posicao, lista, posicao + 1, quantidade - posicao);
+            lista[posicao] = id;
+            tamanhos[categoria]++;
+            tamanho++;
+        }
+
+        void remover(int id, int categoria) {
+            int[] lista = ids[categoria];
+            int quantidade = tamanhos[categoria];
+            int posicao = Arrays.binarySearch(lista, 0, quantidade, id);
+            System.arraycopy(lista, posicao + 1, lista, posicao, quantidade - posicao - 1);
+            tamanhos[categoria]--;
+            tamanho--;
+        }
+
+        int contar(int regime, int genero) {
+            if (regime < 0 && genero < 0) {
+                return tamanho;
+            }
+            int total = 0;
+            for (int categoria = 0; categoria < tamanhos.length; categoria++) {
+                if (aceita(categoria, regime, genero)) {
+                    total += tamanhos[categoria];
+                }
+            }
+            return total;
+        }
+
+        /**
+         * Copia os identificadores das categorias aceitas para o destino, em ordem crescente.
+         *
+         * @return a próxima posição livre no destino
+         */
+        int copiar(int regime, int genero, int[] destino, int posicao) {
+            int inicio = posicao;
+            int categoriasCopiadas = 0;
+            for (int categoria = 0; categoria < tamanhos.length; categoria++) {
+                if (tamanhos[categoria] > 0 && aceita(categoria, regime, genero)) {
+                    System.arraycopy(ids[categoria], 0, destino, posicao, tamanhos[categoria]);
+                    posicao += tamanhos[categoria];
+                    categoriasCopiadas++;
+                }
+            }
+            if (categoriasCopiadas > 1) {
+                Arrays.sort(destino, inicio, posicao);
+            }
+            return posicao;
+        }
+
+        private static boolean aceita(int categoria, int regime, int genero) {
+            return (regime < 0 || categoria / 2 == regime) && (genero < 0 || categoria % 2 == genero);
+        }
+    }
+}
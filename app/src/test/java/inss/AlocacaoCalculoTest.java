@@ -0,0 +1,162 @@
+package inss;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes de orçamento de alocação para os caminhos de cálculo mais usados.
+ *
+ * Cada método é executado 50.000 vezes como aquecimento, sem verificação de estabilidade
+ * do JIT, e então medido com
+ * {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}.
+ * O teste falha se a média de bytes alocados por chamada ultrapassar o orçamento.
+ */
+class AlocacaoCalculoTest {
+    private static final int ITERACOES_AQUECIMENTO = 50_000;
+    private static final int ITERACOES_MEDICAO = 10_000;
+    private static final int MESES_CARREIRA = 420;
+    private static final LocalDate INICIO_CARREIRA = LocalDate.of(1990, 1, 1);
+
+    // Orçamentos em bytes por chamada: pior caso sem escape analysis (igual com -XX:-DoEscapeAnalysis,
+    // -XX:TieredStopAtLevel=1 e -Xint no JDK 17) mais 32 bytes, para não depender da ordem dos testes
+    // nem do perfil do JIT. A faixa indica o mínimo e o máximo medidos variando ordem, perfil e flags.
+    private static final long ORCAMENTO_VALOR_APOSENTADORIA_1988 = 480;   // medido: 392-448
+    private static final long ORCAMENTO_VALOR_APOSENTADORIA_1998 = 528;   // medido: 328-496
+    private static final long ORCAMENTO_VALOR_APOSENTADORIA_2019 = 384;   // medido: 272-352
+    private static final long ORCAMENTO_TEMPO_RESTANTE_1988 = 56;         // medido: 0-24
+    private static final long ORCAMENTO_TEMPO_RESTANTE_1998 = 176;        // medido: 56-144
+    private static final long ORCAMENTO_TEMPO_RESTANTE_2019 = 344;        // medido: 230-312
+    private static final long ORCAMENTO_EXPECTATIVA_SOBREVIDA = 32;       // medido: 0
+    private static final long ORCAMENTO_ADICIONAR_CONTRIBUICAO = 48;      // medido: 16
+
+    private static final Map<String, Long> relatorio = new LinkedHashMap<>();
+    private static com.sun.management.ThreadMXBean threadMXBean;
+    private static Contribuinte contribuinte1988;
+    private static Contribuinte contribuinte1998;
+    private static Contribuinte contribuinte2019;
+    private static ExpectativaSobrevida expectativa;
+    private static PagamentoMensal[] pagamentos;
+
+    @BeforeAll
+    static void prepararContribuintes() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "JVM não expõe com.sun.management.ThreadMXBean");
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "JVM não mede alocação por thread");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        LocalDate dataNascimento = LocalDate.of(1970, 5, 10);
+        contribuinte1988 = Carreiras.contribuir(
+                new Contribuinte1988(dataNascimento, "Mulher"), INICIO_CARREIRA, MESES_CARREIRA);
+        contribuinte2019 = Carreiras.contribuir(
+                new Contribuinte2019(dataNascimento, "Homem"), INICIO_CARREIRA, MESES_CARREIRA);
+        // Tábuas em memória no lugar das baixadas do IBGE, para que o teste não dependa da rede.
+        Map<Integer, Double> tabua = new HashMap<>();
+        for (int idade = 0; idade <= 110; idade++) {
+            tabua.put(idade, 80.0 - idade * 0.7);
+        }
+        expectativa = new ExpectativaSobrevida("Homem", tabua, tabua);
+        contribuinte1998 = Carreiras.contribuir(
+                new Contribuinte1998(dataNascimento, "Homem", expectativa), INICIO_CARREIRA, MESES_CARREIRA);
+
+        pagamentos = new PagamentoMensal[MESES_CARREIRA];
+        for (int i = 0; i < MESES_CARREIRA; i++) {
+            pagamentos[i] = new PagamentoMensal(INICIO_CARREIRA.plusMonths(i), 3000, contribuinte2019);
+        }
+    }
+
+    @AfterAll
+    static void imprimirRelatorio() {
+        // Exibido no console pelo filtro onOutput do build.gradle.
+        System.out.println("Relatório de alocação (bytes por chamada):");
+        relatorio.forEach((metodo, bytes) -> System.out.printf("  %-55s %6d%n", metodo, bytes));
+    }
+
+    @Test void valorAposentadoria1988() {
+        verificarOrcamento("Contribuinte1988.calcularValorAposentadoria",
+                contribuinte1988::calcularValorAposentadoria, ORCAMENTO_VALOR_APOSENTADORIA_1988);
+    }
+
+    @Test void valorAposentadoria1998() {
+        verificarOrcamento("Contribuinte1998.calcularValorAposentadoria",
+                contribuinte1998::calcularValorAposentadoria, ORCAMENTO_VALOR_APOSENTADORIA_1998);
+    }
+
+    @Test void valorAposentadoria2019() {
+        verificarOrcamento("Contribuinte2019.calcularValorAposentadoria",
+                contribuinte2019::calcularValorAposentadoria, ORCAMENTO_VALOR_APOSENTADORIA_2019);
+    }
+
+    @Test void tempoRestante1988() {
+        verificarOrcamento("Contribuinte1988.calcularTempoRestanteAposentadoria",
+                contribuinte1988::calcularTempoRestanteAposentadoria, ORCAMENTO_TEMPO_RESTANTE_1988);
+    }
+
+    @Test void tempoRestante1998() {
+        verificarOrcamento("Contribuinte1998.calcularTempoRestanteAposentadoria",
+                contribuinte1998::calcularTempoRestanteAposentadoria, ORCAMENTO_TEMPO_RESTANTE_1998);
+    }
+
+    @Test void tempoRestante2019() {
+        verificarOrcamento("Contribuinte2019.calcularTempoRestanteAposentadoria",
+                contribuinte2019::calcularTempoRestanteAposentadoria, ORCAMENTO_TEMPO_RESTANTE_2019);
+    }
+
+    @Test void expectativaSobrevida() {
+        verificarOrcamento("ExpectativaSobrevida.obterExpectativaSobrevida",
+                () -> expectativa.obterExpectativaSobrevida(60), ORCAMENTO_EXPECTATIVA_SOBREVIDA);
+    }
+
+    @Test void adicionarContribuicao() {
+        // O crescimento da lista é amortizado sobre uma carreira completa a partir de um contribuinte novo.
+        long totalBytes = 0;
+        for (int i = 0; i < ITERACOES_AQUECIMENTO / MESES_CARREIRA; i++) {
+            adicionarCarreira(new Contribuinte2019(LocalDate.of(1970, 5, 10), "Homem"));
+        }
+        int repeticoes = ITERACOES_MEDICAO / MESES_CARREIRA;
+        for (int i = 0; i < repeticoes; i++) {
+            totalBytes += adicionarCarreira(new Contribuinte2019(LocalDate.of(1970, 5, 10), "Homem"));
+        }
+        registrar("Contribuinte.adicionarContribuicao", totalBytes / ((long) repeticoes * MESES_CARREIRA),
+                ORCAMENTO_ADICIONAR_CONTRIBUICAO);
+    }
+
+    private static long adicionarCarreira(Contribuinte contribuinte) {
+        long inicio = bytesAlocados();
+        for (PagamentoMensal pagamento : pagamentos) {
+            contribuinte.adicionarContribuicao(pagamento);
+        }
+        return bytesAlocados() - inicio;
+    }
+
+    private static void verificarOrcamento(String metodo, Runnable chamada, long orcamento) {
+        for (int i = 0; i < ITERACOES_AQUECIMENTO; i++) {
+            chamada.run();
+        }
+        long inicio = bytesAlocados();
+        for (int i = 0; i < ITERACOES_MEDICAO; i++) {
+            chamada.run();
+        }
+        registrar(metodo, (bytesAlocados() - inicio) / ITERACOES_MEDICAO, orcamento);
+    }
+
+    private static void registrar(String metodo, long bytesPorChamada, long orcamento) {
+        relatorio.put(metodo, bytesPorChamada);
+        assertTrue(bytesPorChamada <= orcamento,
+                metodo + " alocou " + bytesPorChamada + " bytes por chamada (orçamento: " + orcamento + ")");
+    }
+
+    private static long bytesAlocados() {
+        return threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,26 @@
+package inss;
+
+import java.time.LocalDate;
+
+/**
+ * Monta carreiras de contribuição para os testes.
+ */
+final class Carreiras {
+    private Carreiras() {
+    }
+
+    /**
+     * Adiciona contribuições mensais consecutivas ao contribuinte a partir da data de início.
+     *
+     * @param contribuinte o contribuinte que recebe as contribuições
+     * @param inicio a data da primeira contribuição
+     * @param meses o número de contribuições mensais
+     * @return o próprio contribuinte
+     */
+    static <T extends Contribuinte> T contribuir(T contribuinte, LocalDate inicio, int meses) {
+        for (int i = 0; i < meses; i++) {
+            contribuinte.adicionarContribuicao(new PagamentoMensal(inicio.plusMonths(i), 3000 + i, contribuinte));
+        }
+        return contribuinte;
+    }
+}
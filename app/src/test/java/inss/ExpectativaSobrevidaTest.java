@@ -0,0 +1,27 @@
+package inss;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ExpectativaSobrevidaTest {
+    private static final Map<Integer, Double> HOMENS = Map.of(60, 21.5);
+    private static final Map<Integer, Double> MULHERES = Map.of(60, 24.8);
+
+    @Test void usaTabuaDosHomens() {
+        ExpectativaSobrevida expectativa = new ExpectativaSobrevida("Homem", HOMENS, MULHERES);
+        assertEquals(21.5, expectativa.obterExpectativaSobrevida(60));
+    }
+
+    @Test void usaTabuaDasMulheres() {
+        ExpectativaSobrevida expectativa = new ExpectativaSobrevida("Mulher", HOMENS, MULHERES);
+        assertEquals(24.8, expectativa.obterExpectativaSobrevida(60));
+    }
+
+    @Test void idadeForaDaTabua() {
+        ExpectativaSobrevida expectativa = new ExpectativaSobrevida("Homem", HOMENS, MULHERES);
+        assertEquals(-1.0, expectativa.obterExpectativaSobrevida(150));
+    }
+}
@@ -0,0 +1,180 @@
+package inss;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IndiceAposentadoriaTest {
+    private static final int ANO = Year.now().getValue();
+    private static final int POPULACAO = 3_000;
+
+    // Contribuições de 2000-01 a 2010-01: 10 anos entre a primeira e a última.
+    private static final int DEZ_ANOS = 121;
+    // Contribuições de 2000-01 a 2031-01: 31 anos entre a primeira e a última.
+    private static final int TRINTA_E_UM_ANOS = 373;
+
+    private static Contribuinte comContribuicoes(Contribuinte contribuinte, int meses) {
+        return Carreiras.contribuir(contribuinte, LocalDate.of(2000, 1, 1), meses);
+    }
+
+    private static IndiceAposentadoria criarIndice() {
+        LocalDate nascimento = LocalDate.of(1980, 3, 1);
+        LocalDate quarentaAnos = LocalDate.now().minusYears(40).minusDays(1);
+        return new IndiceAposentadoria(List.of(
+                // 1988, homem: 35 - 10 = 25 anos
+                comContribuicoes(new Contribuinte1988(nascimento, "Homem"), DEZ_ANOS),
+                // 1988, mulher: 30 - 10 = 20 anos
+                comContribuicoes(new Contribuinte1988(nascimento, "Mulher"), DEZ_ANOS),
+                // 1988, mulher: 30 - 31 < 0, já pode se aposentar
+                comContribuicoes(new Contribuinte1988(nascimento, "Mulher"), TRINTA_E_UM_ANOS),
+                // 2019, mulher com mais de 70 anos e 31 de contribuição: idade (62) e pontos (100) já atingidos
+                comContribuicoes(new Contribuinte2019(LocalDate.of(1950, 1, 1), "Mulher"), TRINTA_E_UM_ANOS),
+                // 2019, homem com 40 anos: max(65 - 40, 105 - (10 + 40)) = 55 anos
+                comContribuicoes(new Contribuinte2019(quarentaAnos, "Homem"), DEZ_ANOS)));
+    }
+
+    @Test void projetaAnoDeAposentadoria() {
+        IndiceAposentadoria indice = criarIndice();
+        assertEquals(ANO + 25, indice.getAnoAposentadoria(0));
+        assertEquals(ANO + 20, indice.getAnoAposentadoria(1));
+        assertEquals(ANO, indice.getAnoAposentadoria(2));
+        assertEquals(ANO, indice.getAnoAposentadoria(3));
+        assertEquals(ANO + 55, indice.getAnoAposentadoria(4));
+    }
+
+    @Test void buscaPorIntervaloRegimeEGenero() {
+        IndiceAposentadoria indice = criarIndice();
+
+        assertArrayEquals(new int[] {2, 3, 1, 0, 4}, indice.buscar(ANO, ANO + 60, null, null));
+        assertArrayEquals(new int[] {2, 3, 1}, indice.buscar(ANO, ANO + 20, null, "Mulher"));
+        assertArrayEquals(new int[] {2, 1}, indice.buscar(ANO, ANO + 20, Contribuinte1988.class, "Mulher"));
+        assertArrayEquals(new int[] {4}, indice.buscar(ANO + 1, ANO + 60, Contribuinte2019.class, null));
+        assertArrayEquals(new int[0], indice.buscar(ANO + 21, ANO + 24, null, null));
+
+        assertEquals(5, indice.contar(ANO, ANO + 60, null, null));
+        assertEquals(2, indice.contar(ANO, ANO, null, "Mulher"));
+        assertEquals(1, indice.contar(ANO, ANO + 30, Contribuinte1988.class, "Homem"));
+        assertEquals(0, indice.contar(ANO, ANO + 30, Contribuinte2019.class, "Homem"));
+        assertEquals(0, indice.contar(ANO + 60, ANO, null, null));
+    }
+
+    @Test void regimeAusenteOuGeneroInvalido() {
+        IndiceAposentadoria indice = criarIndice();
+        assertEquals(0, indice.contar(ANO, ANO + 60, Contribuinte1998.class, null));
+        assertArrayEquals(new int[0], indice.buscar(ANO, ANO + 60, Contribuinte1998.class, null));
+        assertThrows(IllegalArgumentException.class, () -> indice.contar(ANO, ANO + 60, null, "M"));
+    }
+
+    @Test void atualizaAoReceberContribuicoes() {
+        IndiceAposentadoria indice = criarIndice();
+
+        // 2010-01 a 2011-01: passa a ter 11 anos de contribuição, 35 - 11 = 24 anos.
+        indice.adicionarContribuicao(0, new PagamentoMensal(LocalDate.of(2011, 1, 1), 2000, indice.getContribuinte(0)));
+
+        assertEquals(ANO + 24, indice.getAnoAposentadoria(0));
+        assertEquals(0, indice.contar(ANO + 25, ANO + 25, null, null));
+        assertArrayEquals(new int[] {0}, indice.buscar(ANO + 24, ANO + 24, Contribuinte1988.class, "Homem"));
+
+        int novo = indice.adicionarContribuinte(
+                comContribuicoes(new Contribuinte1988(LocalDate.of(1980, 3, 1), "Homem"), DEZ_ANOS));
+        assertEquals(5, novo);
+        assertEquals(ANO + 25, indice.getAnoAposentadoria(novo));
+        assertEquals(6, indice.contar(ANO, ANO + 60, null, null));
+        assertEquals(2, indice.contar(ANO, ANO + 30, Contribuinte1988.class, "Homem"));
+    }
+
+    /**
+     * Gera contribuintes dos três regimes com datas e carreiras aleatórias, sem acessar a rede.
+     * Os regimes de 1998 e 2019 aparecem só em parte dos anos, então os baldes ficam com
+     * números diferentes de categorias.
+     */
+    private static List<Contribuinte> gerarPopulacao(Random random) {
+        Map<Integer, Double> tabua = new HashMap<>();
+        for (int idade = 0; idade <= 110; idade++) {
+            tabua.put(idade, 80.0 - idade * 0.7);
+        }
+        List<Contribuinte> populacao = new ArrayList<>();
+        for (int i = 0; i < POPULACAO; i++) {
+            LocalDate nascimento = LocalDate.of(1950 + random.nextInt(61), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            String genero = random.nextBoolean() ? "Homem" : "Mulher";
+            LocalDate inicio = nascimento.plusYears(16 + random.nextInt(10));
+            Contribuinte contribuinte;
+            if (inicio.getYear() <= 1998) {
+                contribuinte = new Contribuinte1988(nascimento, genero);
+            } else if (inicio.getYear() <= 2019) {
+                contribuinte = new Contribuinte1998(nascimento, genero, new ExpectativaSobrevida(genero, tabua, tabua));
+            } else {
+                contribuinte = new Contribuinte2019(nascimento, genero);
+            }
+            populacao.add(Carreiras.contribuir(contribuinte, inicio, 1 + random.nextInt(480)));
+        }
+        return populacao;
+    }
+
+    private static void conferirComForcaBruta(IndiceAposentadoria indice, int[] anosEsperados, int anoInicio, int anoFim,
+            Class<? extends Contribuinte> regime, String genero) {
+        List<Integer> esperados = new ArrayList<>();
+        for (int ano = anoInicio; ano <= anoFim; ano++) {
+            for (int id = 0; id < anosEsperados.length; id++) {
+                Contribuinte contribuinte = indice.getContribuinte(id);
+                if (anosEsperados[id] == ano
+                        && (regime == null || contribuinte.getClass() == regime)
+                        && (genero == null || contribuinte.getGenero().equals(genero))) {
+                    esperados.add(id);
+                }
+            }
+        }
+        int[] esperado = esperados.stream().mapToInt(Integer::intValue).toArray();
+        String consulta = anoInicio + ".." + anoFim + " " + regime + " " + genero;
+        assertArrayEquals(esperado, indice.buscar(anoInicio, anoFim, regime, genero), consulta);
+        assertEquals(esperado.length, indice.contar(anoInicio, anoFim, regime, genero), consulta);
+    }
+
+    private static void conferirTodasAsConsultas(IndiceAposentadoria indice, Random random) {
+        // Força bruta: recalcula a projeção de cada contribuinte sem passar pelo índice.
+        int[] anosEsperados = new int[indice.tamanho()];
+        for (int id = 0; id < anosEsperados.length; id++) {
+            int tempoRestante = indice.getContribuinte(id).calcularTempoRestanteAposentadoria();
+            anosEsperados[id] = indice.getAnoReferencia() + Math.max(0, tempoRestante);
+        }
+        List<Class<? extends Contribuinte>> regimes = new ArrayList<>();
+        regimes.add(null);
+        regimes.add(Contribuinte1988.class);
+        regimes.add(Contribuinte1998.class);
+        regimes.add(Contribuinte2019.class);
+        String[] generos = {null, "Homem", "Mulher"};
+        for (int consulta = 0; consulta < 40; consulta++) {
+            int anoInicio = ANO + random.nextInt(60);
+            int anoFim = anoInicio + random.nextInt(8);
+            for (Class<? extends Contribuinte> regime : regimes) {
+                for (String genero : generos) {
+                    conferirComForcaBruta(indice, anosEsperados, anoInicio, anoFim, regime, genero);
+                }
+            }
+        }
+    }
+
+    @Test void confereComForcaBrutaEmPopulacaoGerada() {
+        Random random = new Random(42);
+        IndiceAposentadoria indice = new IndiceAposentadoria(gerarPopulacao(random));
+        conferirTodasAsConsultas(indice, random);
+
+        for (int i = 0; i < 500; i++) {
+            int id = random.nextInt(indice.tamanho());
+            Contribuinte contribuinte = indice.getContribuinte(id);
+            LocalDate data = LocalDate.of(2025, 1, 1).plusMonths(random.nextInt(240));
+            indice.adicionarContribuicao(id, new PagamentoMensal(data, 3000, contribuinte));
+        }
+        conferirTodasAsConsultas(indice, random);
+    }
+}